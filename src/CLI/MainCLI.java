@@ -1,6 +1,8 @@
 package CLI;
 
 import Core.ChampionshipManager;
+import Core.Registry;
+import Core.StandingsRow;
 import Core.Team;
 import Core.Player;
 
@@ -9,12 +11,15 @@ import java.util.Scanner;
 /**
  * CLI.MainCLI: Command-line interface for the Football Championship.
  * Supports recording matches with scorer, optional assister, goalkeeper saves, and points.
+ * Can create and switch between the championships hosted by a Registry.
  */
 public class MainCLI {
-    private final ChampionshipManager manager;
+    private final Registry registry;
+    private ChampionshipManager manager;  // championship currently being edited
     private final Scanner scanner;
 
-    public MainCLI(ChampionshipManager manager) {
+    public MainCLI(Registry registry, ChampionshipManager manager) {
+        this.registry = registry;
         this.manager = manager;
         this.scanner = new Scanner(System.in);
     }
@@ -24,12 +29,17 @@ public class MainCLI {
      */
     public void run() {
         while (true) {
-            System.out.println("\n--- Football Championship (CLI) ---");
+            System.out.println("\n--- Football Championship (CLI): " + manager.getName() + " ---");
             System.out.println("1) List teams & players");
             System.out.println("2) Add team");
             System.out.println("3) Add player to team");
             System.out.println("4) Record match");
-            System.out.println("5) Exit");
+            System.out.println("5) Next matchday (current: " + manager.getCurrentMatchday() + ")");
+            System.out.println("6) Form table");
+            System.out.println("7) Player stats between matchdays");
+            System.out.println("8) New championship");
+            System.out.println("9) Switch championship");
+            System.out.println("10) Exit");
             System.out.print("Choose> ");
             String choice = scanner.nextLine().trim();
 
@@ -47,6 +57,21 @@ public class MainCLI {
                     recordMatch();
                     break;
                 case "5":
+                    System.out.println("Now on matchday " + manager.nextMatchday());
+                    break;
+                case "6":
+                    showFormTable();
+                    break;
+                case "7":
+                    showPlayerRange();
+                    break;
+                case "8":
+                    newChampionship();
+                    break;
+                case "9":
+                    switchChampionship();
+                    break;
+                case "10":
                     System.out.println("Goodbye!");
                     return;
                 default:
@@ -61,11 +86,36 @@ public class MainCLI {
         if (manager.findTeam(name) != null) {
             System.out.println("Team already exists.");
         } else {
-            manager.addTeam(new Team(name));
+            manager.addTeam(name);
             System.out.println("Added team: " + name);
         }
     }
 
+    private void newChampionship() {
+        System.out.print("Championship name> ");
+        String name = scanner.nextLine().trim();
+        if (registry.findChampionship(name) != null) {
+            System.out.println("Championship already exists.");
+        } else {
+            manager = registry.createChampionship(name);
+            System.out.println("Created and switched to: " + name);
+        }
+    }
+
+    private void switchChampionship() {
+        for (ChampionshipManager c : registry.getChampionships()) {
+            System.out.println("  - " + c.getName());
+        }
+        System.out.print("Championship name> ");
+        ChampionshipManager c = registry.findChampionship(scanner.nextLine().trim());
+        if (c == null) {
+            System.out.println("Championship not found.");
+        } else {
+            manager = c;
+            System.out.println("Switched to: " + c.getName());
+        }
+    }
+
     private void addPlayer() {
         System.out.print("Team name> ");
         Team team = manager.findTeam(scanner.nextLine().trim());
@@ -75,16 +125,97 @@ public class MainCLI {
         }
         System.out.print("Player name> ");
         String playerName = scanner.nextLine().trim();
+        System.out.print("Registry key (or press Enter to use the name)> ");
+        String key = scanner.nextLine().trim();
+        if (key.isEmpty()) key = playerName;
         System.out.print("Position> ");
         String position = scanner.nextLine().trim();
-        team.addPlayer(new Player(playerName, position));
-        System.out.println("Added " + position + " " + playerName + " to " + team.getName());
+        Player existing = manager.findPlayerByKey(key);
+        Player p;
+        try {
+            p = manager.addPlayer(team, key, playerName, position);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+        if (p == existing) {
+            System.out.println(p.getName() + " already plays for " + p.getTeam().getName()
+                    + " in this championship.");
+            return;
+        }
+        System.out.println("Added " + p.getPosition() + " " + p.getName() + " to " + team.getName());
+    }
+
+    /**
+     * Prints teams ranked by points over the last N matchdays.
+     */
+    private void showFormTable() {
+        System.out.print("Last N matchdays> ");
+        int rounds;
+        try {
+            rounds = Integer.parseInt(scanner.nextLine().trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Not a number.");
+            return;
+        }
+        if (rounds < 1) { System.out.println("Rounds must be at least 1."); return; }
+        for (StandingsRow row : manager.getFormTable(rounds)) {
+            System.out.println(row);
+        }
+    }
+
+    /**
+     * Prints a player's stats over an inclusive matchday range.
+     */
+    private void showPlayerRange() {
+        System.out.print("Player name or key> ");
+        Player p = manager.findPlayer(scanner.nextLine().trim());
+        if (p == null) { System.out.println("Player not found."); return; }
+        int from;
+        int to;
+        try {
+            System.out.print("From matchday> ");
+            from = Integer.parseInt(scanner.nextLine().trim());
+            System.out.print("To matchday> ");
+            to = Integer.parseInt(scanner.nextLine().trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Not a number.");
+            return;
+        }
+        if (from < 1 || from > to) {
+            System.out.println("Range must satisfy 1 <= from <= to.");
+            return;
+        }
+        String stats = String.format("%s (matchdays %d-%d)  Goals:%d  Assists:%d",
+                p.getName(), from, to, p.getGoalsBetween(from, to), p.getAssistsBetween(from, to));
+        if ("Goalkeeper".equalsIgnoreCase(p.getPosition())) {
+            stats += String.format("  Saves:%d  Conceded:%d",
+                    p.getSavesBetween(from, to), p.getGoalsConcededBetween(from, to));
+        }
+        System.out.println(stats);
+    }
+
+    /**
+     * Prompts for a player by name or key until one is found in the current championship.
+     * @param prompt   Prompt to print
+     * @param optional If true, an empty answer returns null
+     */
+    private Player readPlayer(String prompt, boolean optional) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine().trim();
+            if (optional && input.isEmpty()) return null;
+            Player p = manager.findPlayer(input);
+            if (p != null) return p;
+            System.out.println("Player not found.");
+        }
     }
 
     /**
      * Records a match: prompts for scorers, assisters, goalkeeper saves, updates stats and awards points.
      */
     private void recordMatch() {
+        int md = manager.getCurrentMatchday();
         // Select teams
         System.out.print("Home team> ");
         Team home = manager.findTeam(scanner.nextLine().trim());
@@ -101,24 +232,18 @@ public class MainCLI {
 
         // Home goals: scorer + optional assister
         for (int i = 1; i <= hg; i++) {
-            System.out.print("Home scorer #" + i + "> ");
-            Player s = manager.findPlayer(scanner.nextLine().trim());
-            System.out.print("Assister for this goal (or press Enter for none)> ");
-            String an = scanner.nextLine().trim();
-            Player a = an.isEmpty() ? null : manager.findPlayer(an);
-            if (s != null) s.updateStats(1, 0, 0, 0);
-            if (a != null && a != s) a.updateStats(0, 1, 0, 0);
+            Player s = readPlayer("Home scorer #" + i + "> ", false);
+            Player a = readPlayer("Assister for this goal (or press Enter for none)> ", true);
+            s.updateStats(md, 1, 0, 0, 0);
+            if (a != null && a != s) a.updateStats(md, 0, 1, 0, 0);
         }
 
         // Away goals
         for (int i = 1; i <= ag; i++) {
-            System.out.print("Away scorer #" + i + "> ");
-            Player s = manager.findPlayer(scanner.nextLine().trim());
-            System.out.print("Assister for this goal (or press Enter for none)> ");
-            String an = scanner.nextLine().trim();
-            Player a = an.isEmpty() ? null : manager.findPlayer(an);
-            if (s != null) s.updateStats(1, 0, 0, 0);
-            if (a != null && a != s) a.updateStats(0, 1, 0, 0);
+            Player s = readPlayer("Away scorer #" + i + "> ", false);
+            Player a = readPlayer("Assister for this goal (or press Enter for none)> ", true);
+            s.updateStats(md, 1, 0, 0, 0);
+            if (a != null && a != s) a.updateStats(md, 0, 1, 0, 0);
         }
 
         // Goalkeeper stats
@@ -127,24 +252,24 @@ public class MainCLI {
             if ("Goalkeeper".equalsIgnoreCase(p.getPosition())) {
                 System.out.print("Saves by " + p.getName() + "> ");
                 int sv = Integer.parseInt(scanner.nextLine().trim());
-                p.updateStats(0, 0, sv, ag);
+                p.updateStats(md, 0, 0, sv, ag);
             }
         }
         for (Player p : away.getPlayers()) {
             if ("Goalkeeper".equalsIgnoreCase(p.getPosition())) {
                 System.out.print("Saves by " + p.getName() + "> ");
                 int sv = Integer.parseInt(scanner.nextLine().trim());
-                p.updateStats(0, 0, sv, hg);
+                p.updateStats(md, 0, 0, sv, hg);
             }
         }
 
+        // Award points based on result
+        manager.recordMatchPoints(home, away, hg, ag);
+
         // Recalculate team stats
         home.recalculateStats();
         away.recalculateStats();
 
-        // Award points based on result
-        manager.recordMatchPoints(home, away, hg, ag);
-
         System.out.println("Match recorded: "
                 + home.getName() + " " + hg + " - " + ag + " " + away.getName());
     }
@@ -1,28 +1,102 @@
 package Core;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * Core.ChampionshipManager: Manages multiple teams in the championship,
  * awards points based on match results, and determines the competition winner.
+ * Championships are hosted by a Registry; clubs and players are shared identities
+ * and this manager only keeps its own participations, keyed by registry id.
+ * A ChampionshipManager is not thread-safe: confine each one to a single thread.
+ * Different championships may be driven from different threads concurrently.
  */
 public class ChampionshipManager {
+    private final String name;
+    private final Registry registry;
     private final List<Team> teams;
+    private final IntMap<Team> teamsById;      // keyed by club id
+    private final IntMap<Player> playersById;  // keyed by player id
     private Team winner;
+    private int currentMatchday;  // matchday new results are recorded against (1-based)
     private static final int POINTS_TO_WIN = 40;  // threshold to end competition
 
     /**
      * Constructs a new ChampionshipManager with no teams.
+     * Use Registry.createChampionship to obtain one.
+     * @param name     Championship name
+     * @param registry Registry that hosts this championship
      */
-    public ChampionshipManager() {
+    ChampionshipManager(String name, Registry registry) {
+        this.name = name;
+        this.registry = registry;
         this.teams = new ArrayList<>();
+        this.teamsById = new IntMap<>();
+        this.playersById = new IntMap<>();
         this.winner = null;
+        this.currentMatchday = 1;
     }
 
-    /** Adds a team to the championship. */
-    public void addTeam(Team team) {
-        teams.add(team);
+    /** Returns the championship name. */
+    public String getName() {
+        return name;
+    }
+
+    /** Returns the registry hosting this championship. */
+    public Registry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Enters a club into the championship, registering it on first sight.
+     * @param teamName Club name
+     * @return this championship's team for the club (existing one if already entered)
+     */
+    public Team addTeam(String teamName) {
+        Club club = registry.registerClub(teamName);
+        Team t = teamsById.get(club.getId());
+        if (t == null) {
+            t = new Team(club);
+            teams.add(t);
+            teamsById.put(club.getId(), t);
+        }
+        return t;
+    }
+
+    /**
+     * Adds a player to a team's roster, registering the player under their name as key.
+     * @see #addPlayer(Team, String, String, String)
+     */
+    public Player addPlayer(Team team, String playerName, String position) {
+        return addPlayer(team, playerName, playerName, position);
+    }
+
+    /**
+     * Adds a player to a team's roster, registering the player on first sight.
+     * A player can only appear once per championship; like addTeam, adding a player
+     * who is already entered returns the existing participation unchanged, so callers
+     * can compare its getTeam() with the requested team.
+     * @param team       Team in this championship
+     * @param key        Registry key identifying the person across championships
+     * @param playerName Player name
+     * @param position   Player position in this championship
+     * @return this championship's participation for the player (existing one if already entered)
+     * @throws IllegalArgumentException if the team is not part of this championship,
+     *                                  or the key belongs to a differently named player
+     */
+    public Player addPlayer(Team team, String key, String playerName, String position) {
+        if (teamsById.get(team.getId()) != team) {
+            throw new IllegalArgumentException(team.getName() + " is not in " + name);
+        }
+        PlayerProfile profile = registry.registerPlayer(key, playerName);
+        Player p = playersById.get(profile.getId());
+        if (p == null) {
+            p = new Player(profile, registry.intern(position));
+            team.addPlayer(p);
+            playersById.put(profile.getId(), p);
+        }
+        return p;
     }
 
     /** Returns all teams. */
@@ -31,24 +105,33 @@ public class ChampionshipManager {
     }
 
     /** Finds a team by name (case-insensitive). */
-    public Team findTeam(String name) {
-        for (Team t : teams) {
-            if (t.getName().equalsIgnoreCase(name)) {
-                return t;
-            }
-        }
-        return null;
+    public Team findTeam(String teamName) {
+        Club club = registry.findClub(teamName);
+        return club == null ? null : teamsById.get(club.getId());
     }
 
-    /** Finds a player across all teams by player name. */
-    public Player findPlayer(String playerName) {
+    /**
+     * Finds a player in this championship by registry key, falling back to a
+     * case-insensitive name search of the rosters.
+     * @param keyOrName Registry key or player name
+     * @return the player, or null if neither matches
+     */
+    public Player findPlayer(String keyOrName) {
+        Player p = findPlayerByKey(keyOrName);
+        if (p != null) return p;
         for (Team t : teams) {
-            Player p = t.findPlayer(playerName);
+            p = t.findPlayer(keyOrName);
             if (p != null) return p;
         }
         return null;
     }
 
+    /** Finds a player in this championship by registry key only, or null. */
+    public Player findPlayerByKey(String key) {
+        PlayerProfile profile = registry.findPlayer(key);
+        return profile == null ? null : playersById.get(profile.getId());
+    }
+
     /** Lists all teams and their rosters as a single string. */
     public String listAll() {
         StringBuilder sb = new StringBuilder();
@@ -61,23 +144,69 @@ public class ChampionshipManager {
         return sb.toString();
     }
 
+    /** Returns the matchday new results are recorded against. */
+    public int getCurrentMatchday() {
+        return currentMatchday;
+    }
+
+    /**
+     * Moves on to the next matchday and returns its number.
+     * @throws IllegalStateException if the last supported matchday has been reached
+     */
+    public int nextMatchday() {
+        if (currentMatchday >= FenwickTree.MAX_MATCHDAY) {
+            throw new IllegalStateException("No matchdays left after " + currentMatchday);
+        }
+        return ++currentMatchday;
+    }
+
+    /**
+     * Returns the table for the inclusive matchday range [from, to], ranked by points
+     * and then goal difference. Each team's row is computed once in O(log n).
+     */
+    public List<StandingsRow> getTableBetween(int from, int to) {
+        List<StandingsRow> table = new ArrayList<>(teams.size());
+        for (Team t : teams) {
+            table.add(new StandingsRow(t, from, to));
+        }
+        table.sort(Comparator.comparingInt(StandingsRow::getPoints)
+                .thenComparingInt(StandingsRow::getGoalDifference)
+                .reversed());
+        return table;
+    }
+
+    /**
+     * Returns the form table: teams ranked over the last {@code rounds} matchdays,
+     * up to and including the current one.
+     * @param rounds Number of matchdays to cover (at least 1)
+     */
+    public List<StandingsRow> getFormTable(int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Rounds must be at least 1: " + rounds);
+        }
+        return getTableBetween(currentMatchday - rounds + 1, currentMatchday);
+    }
+
     /**
      * Awards tournament points based on match outcome and checks for a winner.
+     * Points and goals are booked against the current matchday.
      * @param home     Home team
      * @param away     Away team
      * @param homeGoals Goals scored by home team
      * @param awayGoals Goals scored by away team
      */
     public void recordMatchPoints(Team home, Team away, int homeGoals, int awayGoals) {
+        home.recordGoals(currentMatchday, homeGoals, awayGoals);
+        away.recordGoals(currentMatchday, awayGoals, homeGoals);
         if (isCompetitionOver()) return;  // no further updates after winner
 
         if (homeGoals > awayGoals) {
-            home.addPoints(3);
+            home.addPoints(currentMatchday, 3);
         } else if (homeGoals == awayGoals) {
-            home.addPoints(1);
-            away.addPoints(1);
+            home.addPoints(currentMatchday, 1);
+            away.addPoints(currentMatchday, 1);
         } else {
-            away.addPoints(3);
+            away.addPoints(currentMatchday, 3);
         }
         // Check if threshold reached
         if (winner == null) {
@@ -0,0 +1,29 @@
+package Core;
+
+/**
+ * Core.Club: Shared identity of a team across all hosted championships.
+ * Points, stats and rosters are per-competition and live in Team participations.
+ */
+public class Club {
+    private final int id;
+    private final String name;
+
+    /**
+     * Constructs a new Club. Use Registry.registerClub to obtain one.
+     * @param id   registry-wide club id
+     * @param name interned club name
+     */
+    Club(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    // Getters
+    public int getId() { return id; }
+    public String getName() { return name; }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,88 @@
+package Core;
+
+import java.util.Arrays;
+
+/**
+ * Core.FenwickTree: Binary indexed tree over a primitive int array, bucketed by matchday.
+ * Point updates and range sums both run in O(log n); the backing array grows on demand
+ * so callers never need to know the length of the season up front.
+ */
+public class FenwickTree {
+    private static final int INITIAL_CAPACITY = 16;
+    /** Highest matchday accepted; a power of two so growth by doubling lands on it exactly. */
+    public static final int MAX_MATCHDAY = 1 << 20;
+
+    private int[] tree;  // 1-based; tree[0] is unused
+
+    /** Constructs an empty tree. */
+    public FenwickTree() {
+        this.tree = new int[INITIAL_CAPACITY + 1];
+    }
+
+    /** Returns the highest matchday that can currently be stored without growing. */
+    public int capacity() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Adds a value to the bucket of the given matchday.
+     * @param matchday matchday (1-based, at most MAX_MATCHDAY)
+     * @param delta    amount to add
+     * @throws IllegalArgumentException if the matchday is out of range
+     */
+    public void add(int matchday, int delta) {
+        if (matchday < 1 || matchday > MAX_MATCHDAY) {
+            throw new IllegalArgumentException(
+                    "Matchday must be between 1 and " + MAX_MATCHDAY + ": " + matchday);
+        }
+        if (matchday > capacity()) grow(matchday);
+        for (int i = matchday; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of all buckets from matchday 1 up to and including the given matchday.
+     * @param matchday last matchday to include; values below 1 yield 0
+     */
+    public int prefixSum(int matchday) {
+        int sum = 0;
+        for (int i = Math.min(matchday, capacity()); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /** Returns the sum of all buckets. */
+    public int total() {
+        return prefixSum(capacity());
+    }
+
+    /**
+     * Returns the sum of the buckets in the inclusive matchday range [from, to].
+     * @param from first matchday (clamped to 1)
+     * @param to   last matchday
+     */
+    public int rangeSum(int from, int to) {
+        if (to < from) return 0;
+        return prefixSum(to) - prefixSum(Math.max(from, 1) - 1);
+    }
+
+    /**
+     * Doubles the capacity until the given matchday fits. Nodes that already exist keep
+     * their value (a node only covers indices below it); new nodes are filled from the
+     * old prefix sums, since every bucket past the old capacity is still zero.
+     */
+    private void grow(int matchday) {
+        int oldCapacity = capacity();
+        int newCapacity = oldCapacity;
+        while (newCapacity < matchday) newCapacity *= 2;
+        int total = prefixSum(oldCapacity);
+        int[] grown = Arrays.copyOf(tree, newCapacity + 1);
+        for (int i = oldCapacity + 1; i <= newCapacity; i++) {
+            int low = i - (i & -i);
+            grown[i] = low >= oldCapacity ? 0 : total - prefixSum(low);
+        }
+        tree = grown;
+    }
+}
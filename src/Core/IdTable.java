@@ -0,0 +1,54 @@
+package Core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Core.IdTable: Lock-free, append-only table that hands out dense ids and stores
+ * one value per id. Storage is a directory of fixed-size chunks that are created
+ * with compare-and-set on first use, so neither allocation nor reads take a lock.
+ */
+class IdTable<T> {
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int MAX_CHUNKS = 1 << 14;  // up to 16M ids
+
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final AtomicReferenceArray<AtomicReferenceArray<T>> chunks =
+            new AtomicReferenceArray<>(MAX_CHUNKS);
+
+    /**
+     * Reserves the next free id.
+     * @throws IllegalStateException if the table is full
+     */
+    int allocate() {
+        int id = nextId.getAndIncrement();
+        if (id >= MAX_CHUNKS * CHUNK_SIZE) {
+            throw new IllegalStateException("Id table full");
+        }
+        return id;
+    }
+
+    /** Publishes the value for an id returned by allocate(). */
+    void set(int id, T value) {
+        int c = id >>> CHUNK_BITS;
+        AtomicReferenceArray<T> chunk = chunks.get(c);
+        if (chunk == null) {
+            chunks.compareAndSet(c, null, new AtomicReferenceArray<>(CHUNK_SIZE));
+            chunk = chunks.get(c);
+        }
+        chunk.set(id & (CHUNK_SIZE - 1), value);
+    }
+
+    /**
+     * Returns the value for an id.
+     * @throws IndexOutOfBoundsException if the id has not been published
+     */
+    T get(int id) {
+        AtomicReferenceArray<T> chunk = id < 0 || id >= MAX_CHUNKS * CHUNK_SIZE
+                ? null : chunks.get(id >>> CHUNK_BITS);
+        T value = chunk == null ? null : chunk.get(id & (CHUNK_SIZE - 1));
+        if (value == null) throw new IndexOutOfBoundsException("Unknown id: " + id);
+        return value;
+    }
+}
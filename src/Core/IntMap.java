@@ -0,0 +1,85 @@
+package Core;
+
+import java.util.Arrays;
+
+/**
+ * Core.IntMap: Open-addressing hash map from non-negative int keys to values.
+ * Keys are stored in a primitive array (no Integer boxing), which keeps the
+ * per-championship id indexes compact. Removal is not supported.
+ */
+class IntMap<V> {
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    /** Constructs an empty map. */
+    IntMap() {
+        this.keys = new int[8];
+        this.values = new Object[8];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /** Returns the value for the key, or null. */
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == key) return (V) values[i];
+        }
+        return null;
+    }
+
+    /** Returns true if the key is present. */
+    boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associates the value with the key, replacing any previous value.
+     * @param key   non-negative key (registry id)
+     * @param value non-null value
+     */
+    void put(int key, V value) {
+        if (key < 0) throw new IllegalArgumentException("Key must be >= 0: " + key);
+        if (2 * (size + 1) > keys.length) resize();
+        if (insert(keys, values, key, value)) size++;
+    }
+
+    /** Returns the number of entries. */
+    int size() {
+        return size;
+    }
+
+    /** Stores the entry in the given table; returns true if the key was new. */
+    private static boolean insert(int[] ks, Object[] vs, int key, Object value) {
+        int mask = ks.length - 1;
+        int i = mix(key) & mask;
+        while (ks[i] != EMPTY && ks[i] != key) i = (i + 1) & mask;
+        boolean added = ks[i] == EMPTY;
+        ks[i] = key;
+        vs[i] = value;
+        return added;
+    }
+
+    /** Doubles the table, keeping the load factor at or below one half. */
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] newKeys = new int[oldKeys.length * 2];
+        Object[] newValues = new Object[oldKeys.length * 2];
+        Arrays.fill(newKeys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) insert(newKeys, newValues, oldKeys[i], oldValues[i]);
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    /** Spreads sequential ids across the table. */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -3,23 +3,33 @@ package Core;
 /**
  * Core.Player: Represents a football player with stats, including goalkeeper-specific stats.
  * toString now uses full stat names (Goals, Assists, Saves, Conceded).
+ * Besides lifetime totals, every stat is bucketed by matchday in a FenwickTree,
+ * so range queries (e.g. goals between matchdays 10 and 20) run in O(log n).
+ * A Player is one participation in one championship: identity lives in a shared
+ * PlayerProfile, while position and counters are per-competition.
  */
 public class Player {
-    private String name;
-    private String position;  // e.g., "Forward", "Midfielder", "Defender", "Goalkeeper"
+    private final PlayerProfile profile;
+    private final String position;  // e.g., "Forward", "Midfielder", "Defender", "Goalkeeper"
+    private Team team;              // roster this participation belongs to
     private int goals;
     private int assists;
     // Goalkeeper-specific stats
     private int saves;
     private int goalsConceded;
+    // Per-matchday buckets
+    private final FenwickTree goalsByMatchday = new FenwickTree();
+    private final FenwickTree assistsByMatchday = new FenwickTree();
+    private FenwickTree savesByMatchday;     // created on first non-zero goalkeeper update
+    private FenwickTree concededByMatchday;  // created on first non-zero goalkeeper update
 
     /**
-     * Constructs a new Player.
-     * @param name      the player's name
-     * @param position  the player's position ("Goalkeeper" for keepers)
+     * Constructs a new Player participation. Use ChampionshipManager.addPlayer to obtain one.
+     * @param profile  the shared player identity
+     * @param position  the player's position in this championship ("Goalkeeper" for keepers)
      */
-    public Player(String name, String position) {
-        this.name = name;
+    Player(PlayerProfile profile, String position) {
+        this.profile = profile;
         this.position = position;
         this.goals = 0;
         this.assists = 0;
@@ -28,26 +38,56 @@ public class Player {
     }
 
     // Getters
-    public String getName() { return name; }
+    public PlayerProfile getProfile() { return profile; }
+    public Team getTeam() { return team; }
+    public int getId() { return profile.getId(); }
+    public String getName() { return profile.getName(); }
     public String getPosition() { return position; }
     public int getGoals() { return goals; }
     public int getAssists() { return assists; }
     public int getSaves() { return saves; }
     public int getGoalsConceded() { return goalsConceded; }
 
+    /** Records the roster this participation belongs to; called by Team.addPlayer. */
+    void setTeam(Team team) {
+        this.team = team;
+    }
+
+    // Range getters (inclusive matchday bounds)
+    public int getGoalsBetween(int from, int to) { return goalsByMatchday.rangeSum(from, to); }
+    public int getAssistsBetween(int from, int to) { return assistsByMatchday.rangeSum(from, to); }
+    public int getSavesBetween(int from, int to) {
+        return savesByMatchday == null ? 0 : savesByMatchday.rangeSum(from, to);
+    }
+    public int getGoalsConcededBetween(int from, int to) {
+        return concededByMatchday == null ? 0 : concededByMatchday.rangeSum(from, to);
+    }
+
     /**
-     * Updates this player's statistics.
+     * Updates this player's statistics for the given matchday.
+     * @param matchday          matchday the stats belong to (1-based)
      * @param goalsToAdd        number of goals to add
      * @param assistsToAdd      number of assists to add
      * @param savesToAdd        number of saves to add (only applies if goalkeeper)
      * @param concededToAdd     number of goals conceded (only applies if goalkeeper)
      */
-    public void updateStats(int goalsToAdd, int assistsToAdd, int savesToAdd, int concededToAdd) {
+    public void updateStats(int matchday, int goalsToAdd, int assistsToAdd, int savesToAdd, int concededToAdd) {
         this.goals += goalsToAdd;
         this.assists += assistsToAdd;
+        // Zero deltas are skipped so untouched trees neither grow nor get walked
+        if (goalsToAdd != 0) goalsByMatchday.add(matchday, goalsToAdd);
+        if (assistsToAdd != 0) assistsByMatchday.add(matchday, assistsToAdd);
         if ("Goalkeeper".equalsIgnoreCase(position)) {
             this.saves += savesToAdd;
             this.goalsConceded += concededToAdd;
+            if (savesToAdd != 0) {
+                if (savesByMatchday == null) savesByMatchday = new FenwickTree();
+                savesByMatchday.add(matchday, savesToAdd);
+            }
+            if (concededToAdd != 0) {
+                if (concededByMatchday == null) concededByMatchday = new FenwickTree();
+                concededByMatchday.add(matchday, concededToAdd);
+            }
         }
     }
 
@@ -55,7 +95,7 @@ public class Player {
     public String toString() {
         String base = String.format(
                 "%s (%s)  Goals:%d  Assists:%d",
-                name, position, goals, assists
+                getName(), position, goals, assists
         );
         if ("Goalkeeper".equalsIgnoreCase(position)) {
             return String.format(
@@ -0,0 +1,34 @@
+package Core;
+
+/**
+ * Core.PlayerProfile: Shared identity of a player across all hosted championships.
+ * Holds only the id, the registry key and the interned name; position and stats are
+ * per-competition and live in the Player participations created by each ChampionshipManager.
+ */
+public class PlayerProfile {
+    private final int id;
+    private final String key;   // registry key; tells apart different people with the same name
+    private final String name;
+
+    /**
+     * Constructs a new PlayerProfile. Use Registry.registerPlayer to obtain one.
+     * @param id    registry-wide player id
+     * @param key   normalized registry key
+     * @param name  interned player name
+     */
+    PlayerProfile(int id, String key, String name) {
+        this.id = id;
+        this.key = key;
+        this.name = name;
+    }
+
+    // Getters
+    public int getId() { return id; }
+    public String getKey() { return key; }
+    public String getName() { return name; }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
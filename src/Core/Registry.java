@@ -0,0 +1,138 @@
+package Core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Core.Registry: Hosts many championships in one JVM and owns the shared,
+ * deduplicated player and club identities they draw from.
+ * Names and positions are interned, so a club or player that appears in several
+ * competitions is stored once; each ChampionshipManager only keeps its own counters.
+ * The registry is thread-safe without a global lock: name maps are concurrent,
+ * ids come from atomic counters and id lookups read lock-free tables. Each
+ * ChampionshipManager itself is single-threaded and must be confined to one thread at a time.
+ */
+public class Registry {
+    private final Map<String, String> strings;                            // intern pool for names and positions
+    private final Map<String, PlayerProfile> playersByKey;                // keyed by lower-cased registry key
+    private final Map<String, PlayerProfile> playersByName;               // first profile per lower-cased name
+    private final Map<String, Club> clubsByName;                          // keyed by lower-cased name
+    private final Map<String, ChampionshipManager> championshipsByName;   // keyed by lower-cased name
+    private final IdTable<PlayerProfile> players;                         // indexed by player id
+    private final IdTable<Club> clubs;                                    // indexed by club id
+    private final List<ChampionshipManager> championships;                // creation order
+
+    /**
+     * Constructs an empty Registry.
+     */
+    public Registry() {
+        this.strings = new ConcurrentHashMap<>();
+        this.playersByKey = new ConcurrentHashMap<>();
+        this.playersByName = new ConcurrentHashMap<>();
+        this.clubsByName = new ConcurrentHashMap<>();
+        this.championshipsByName = new ConcurrentHashMap<>();
+        this.players = new IdTable<>();
+        this.clubs = new IdTable<>();
+        this.championships = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Creates and hosts a new championship.
+     * @param name Championship name
+     * @return the new championship, or the existing one with that name (case-insensitive)
+     */
+    public ChampionshipManager createChampionship(String name) {
+        return championshipsByName.computeIfAbsent(name.toLowerCase(Locale.ROOT), k -> {
+            ChampionshipManager c = new ChampionshipManager(intern(name), this);
+            championships.add(c);
+            return c;
+        });
+    }
+
+    /** Returns a snapshot of all hosted championships, in creation order. */
+    public List<ChampionshipManager> getChampionships() {
+        return new ArrayList<>(championships);
+    }
+
+    /** Finds a championship by name (case-insensitive), or null. */
+    public ChampionshipManager findChampionship(String name) {
+        return championshipsByName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the shared profile for a player, creating it on first sight.
+     * Players are deduplicated by registry key (case-insensitive), not by name, so two
+     * people sharing a name stay apart as long as they are registered under different keys.
+     * A name-keyed registration (key equal to the name) is refused when the name is already
+     * registered under an explicit key, so one person cannot silently split into two profiles.
+     * @param key  Registry key identifying the person (e.g. the name, or name plus birth year)
+     * @param name Player name
+     * @throws IllegalArgumentException if the key is already registered under a different name,
+     *                                  or a name-keyed registration clashes with an explicit key
+     */
+    public PlayerProfile registerPlayer(String key, String name) {
+        String normalized = key.toLowerCase(Locale.ROOT);
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        PlayerProfile p = playersByKey.computeIfAbsent(normalized, k -> {
+            PlayerProfile namesake = playersByName.get(lowerName);
+            if (k.equals(lowerName) && namesake != null) {
+                throw new IllegalArgumentException("'" + name + "' is already registered under key '"
+                        + namesake.getKey() + "'; use that key, or a distinct key for a different person");
+            }
+            PlayerProfile created = new PlayerProfile(players.allocate(), intern(k), intern(name));
+            players.set(created.getId(), created);
+            playersByName.putIfAbsent(lowerName, created);
+            return created;
+        });
+        if (!p.getName().equalsIgnoreCase(name)) {
+            throw new IllegalArgumentException(
+                    "Key '" + key + "' already belongs to " + p.getName());
+        }
+        return p;
+    }
+
+    /**
+     * Returns the shared club with the given name, creating it on first sight.
+     * @param name Club name (deduplicated case-insensitively)
+     */
+    public Club registerClub(String name) {
+        return clubsByName.computeIfAbsent(name.toLowerCase(Locale.ROOT), k -> {
+            Club created = new Club(clubs.allocate(), intern(name));
+            clubs.set(created.getId(), created);
+            return created;
+        });
+    }
+
+    /** Finds a player profile by registry key (case-insensitive), or null. */
+    public PlayerProfile findPlayer(String key) {
+        return playersByKey.get(key.toLowerCase(Locale.ROOT));
+    }
+
+    /** Finds a club by name (case-insensitive), or null. */
+    public Club findClub(String name) {
+        return clubsByName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /** Returns the player profile with the given id. */
+    public PlayerProfile getPlayer(int id) {
+        return players.get(id);
+    }
+
+    /** Returns the club with the given id. */
+    public Club getClub(int id) {
+        return clubs.get(id);
+    }
+
+    /**
+     * Returns the canonical instance of a string, so repeated names and positions
+     * ("Goalkeeper", "Forward", ...) share one object.
+     */
+    String intern(String s) {
+        String canonical = strings.putIfAbsent(s, s);
+        return canonical != null ? canonical : s;
+    }
+}
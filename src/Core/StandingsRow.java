@@ -0,0 +1,39 @@
+package Core;
+
+/**
+ * Core.StandingsRow: One team's line in a table computed over a matchday range.
+ * Values are computed once when the table is built, so sorting never re-queries the trees.
+ */
+public class StandingsRow {
+    private final Team team;
+    private final int points;
+    private final int goalsFor;
+    private final int goalsAgainst;
+
+    /**
+     * Constructs a row from a team's totals over the inclusive matchday range [from, to].
+     * @param team Team the row belongs to
+     * @param from First matchday
+     * @param to   Last matchday
+     */
+    StandingsRow(Team team, int from, int to) {
+        this.team = team;
+        this.points = team.getPointsBetween(from, to);
+        this.goalsFor = team.getGoalsForBetween(from, to);
+        this.goalsAgainst = team.getGoalsAgainstBetween(from, to);
+    }
+
+    // Getters
+    public Team getTeam() { return team; }
+    public int getPoints() { return points; }
+    public int getGoalsFor() { return goalsFor; }
+    public int getGoalsAgainst() { return goalsAgainst; }
+    public int getGoalDifference() { return goalsFor - goalsAgainst; }
+
+    @Override
+    public String toString() {
+        // Format: TeamName  Pts:X  GS:Y  GA:Z
+        return String.format("%s  Pts:%d  GS:%d  GA:%d",
+                team.getName(), points, goalsFor, goalsAgainst);
+    }
+}
@@ -5,20 +5,28 @@ import java.util.List;
 
 /**
  * Core.Team: Represents a football team containing players, tracking stats and points.
+ * Points and match goals are also bucketed by matchday in a FenwickTree so form
+ * (e.g. points over the last 6 rounds) can be queried in O(log n).
+ * A Team is one participation in one championship: the shared identity is a Club,
+ * while points, stats and the roster are per-competition.
  */
 public class Team {
-    private String name;
+    private final Club club;
     private List<Player> players;
     private int goalsFor;
     private int goalsAgainst;
     private int points; // tournament points: 3 for win, 1 for draw, 0 for loss
+    // Per-matchday buckets
+    private final FenwickTree pointsByMatchday = new FenwickTree();
+    private final FenwickTree goalsForByMatchday = new FenwickTree();
+    private final FenwickTree goalsAgainstByMatchday = new FenwickTree();
 
     /**
-     * Constructs a new Team with the given name.
-     * @param name Team's name
+     * Constructs a new Team participation. Use ChampionshipManager.addTeam to obtain one.
+     * @param club The shared club identity
      */
-    public Team(String name) {
-        this.name = name;
+    Team(Club club) {
+        this.club = club;
         this.players = new ArrayList<>();
         this.goalsFor = 0;
         this.goalsAgainst = 0;
@@ -26,26 +34,48 @@ public class Team {
     }
 
     // Getters
-    public String getName() { return name; }
+    public Club getClub() { return club; }
+    public int getId() { return club.getId(); }
+    public String getName() { return club.getName(); }
     public List<Player> getPlayers() { return players; }
     public int getGoalsFor() { return goalsFor; }
     public int getGoalsAgainst() { return goalsAgainst; }
     public int getPoints() { return points; }
 
+    // Range getters (inclusive matchday bounds)
+    public int getPointsBetween(int from, int to) { return pointsByMatchday.rangeSum(from, to); }
+    public int getGoalsForBetween(int from, int to) { return goalsForByMatchday.rangeSum(from, to); }
+    public int getGoalsAgainstBetween(int from, int to) { return goalsAgainstByMatchday.rangeSum(from, to); }
+
     /**
      * Adds points to this team (3 win, 1 draw, 0 loss).
-     * @param pts Number of points to add
+     * @param matchday Matchday the points were earned on
+     * @param pts      Number of points to add
      */
-    public void addPoints(int pts) {
+    public void addPoints(int matchday, int pts) {
         this.points += pts;
+        if (pts != 0) pointsByMatchday.add(matchday, pts);
+    }
+
+    /**
+     * Records the scoreline of a match from this team's perspective.
+     * The matchday buckets are the single source for both per-matchday and season GF/GA.
+     * @param matchday Matchday the match was played on
+     * @param scored   Goals scored by this team
+     * @param conceded Goals conceded by this team
+     */
+    public void recordGoals(int matchday, int scored, int conceded) {
+        if (scored != 0) goalsForByMatchday.add(matchday, scored);
+        if (conceded != 0) goalsAgainstByMatchday.add(matchday, conceded);
     }
 
     /**
      * Adds a player to this team's roster.
      * @param player Player to add
      */
-    public void addPlayer(Player player) {
+    void addPlayer(Player player) {
         players.add(player);
+        player.setTeam(this);
     }
 
     /**
@@ -63,18 +93,13 @@ public class Team {
     }
 
     /**
-     * Recalculates aggregate stats from all players.
+     * Recalculates season GF and GA from the recorded scorelines, so they always
+     * agree with the per-matchday totals even when a scorer was not recorded.
      * Call after any match updates to refresh GF and GA.
      */
     public void recalculateStats() {
-        goalsFor = 0;
-        goalsAgainst = 0;
-        for (Player p : players) {
-            goalsFor += p.getGoals();
-            if ("Goalkeeper".equalsIgnoreCase(p.getPosition())) {
-                goalsAgainst += p.getGoalsConceded();
-            }
-        }
+        goalsFor = goalsForByMatchday.total();
+        goalsAgainst = goalsAgainstByMatchday.total();
     }
 
     @Override
@@ -82,6 +107,6 @@ public class Team {
         recalculateStats(); // ensure stats up to date
         // Format: TeamName [Pts:X] GS:Y GA:Z
         return String.format("%s [Pts:%d] GS:%d GA:%d",
-                name, points, goalsFor, goalsAgainst);
+                getName(), points, goalsFor, goalsAgainst);
     }
 }
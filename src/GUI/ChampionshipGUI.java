@@ -1,6 +1,8 @@
 package GUI;
 
 import Core.ChampionshipManager;
+import Core.Registry;
+import Core.StandingsRow;
 import Core.Team;
 import Core.Player;
 
@@ -15,9 +17,11 @@ import java.util.List;
  * Displays teams ordered by points, shows team and player stats,
  * supports recording matches with scorers, assisters, goalkeeper saves, points,
  * and displays a message when competition ends (first to reach threshold).
+ * Can create and switch between the championships hosted by a Registry.
  */
 public class ChampionshipGUI extends JFrame {
-    private ChampionshipManager manager;
+    private final Registry registry;
+    private ChampionshipManager manager;  // championship currently shown
     private JLabel lblTeamStats;
     private JLabel lblPlayerStats;
     private JList<Team> teamList;
@@ -25,11 +29,12 @@ public class ChampionshipGUI extends JFrame {
     private DefaultListModel<Team> teamListModel;
     private DefaultListModel<Player> playerListModel;
 
-    public ChampionshipGUI(ChampionshipManager manager) {
+    public ChampionshipGUI(Registry registry, ChampionshipManager manager) {
+        this.registry = registry;
         this.manager = manager;
         initMenu();
         initComponents();
-        setTitle("Football Championship");
+        setTitle("Football Championship: " + manager.getName());
         setDefaultCloseOperation(EXIT_ON_CLOSE);
         setSize(800, 600);
         setLocationRelativeTo(null);
@@ -46,8 +51,24 @@ public class ChampionshipGUI extends JFrame {
         miRecordMatch.addActionListener(e -> { recordMatch(); refreshTeamList(); });
         menu.add(miAddTeam);
         menu.add(miAddPlayer);
+        JMenuItem miNextMatchday = new JMenuItem("Next Matchday");
+        miNextMatchday.addActionListener(e -> JOptionPane.showMessageDialog(this,
+                "Now on matchday " + manager.nextMatchday()));
+        JMenuItem miFormTable = new JMenuItem("Form Table");
+        miFormTable.addActionListener(e -> showFormTable());
         menu.add(miRecordMatch);
+        menu.add(miNextMatchday);
+        menu.add(miFormTable);
         menuBar.add(menu);
+
+        JMenu champMenu = new JMenu("Championship");
+        JMenuItem miNewChampionship = new JMenuItem("New Championship");
+        miNewChampionship.addActionListener(e -> newChampionship());
+        JMenuItem miSwitchChampionship = new JMenuItem("Switch Championship");
+        miSwitchChampionship.addActionListener(e -> switchChampionship());
+        champMenu.add(miNewChampionship);
+        champMenu.add(miSwitchChampionship);
+        menuBar.add(champMenu);
         setJMenuBar(menuBar);
     }
 
@@ -125,14 +146,43 @@ public class ChampionshipGUI extends JFrame {
         }
     }
 
+    private void newChampionship() {
+        String name = JOptionPane.showInputDialog(this, "Enter championship name:");
+        if (name == null || name.trim().isEmpty()) return;
+        if (registry.findChampionship(name.trim()) != null) {
+            JOptionPane.showMessageDialog(this, "Championship already exists.");
+        } else {
+            showChampionship(registry.createChampionship(name.trim()));
+        }
+    }
+
+    private void switchChampionship() {
+        String name = (String) JOptionPane.showInputDialog(
+                this, "Select championship:", "Switch Championship", JOptionPane.PLAIN_MESSAGE,
+                null, registry.getChampionships().stream().map(ChampionshipManager::getName).toArray(),
+                manager.getName());
+        if (name == null) return;
+        showChampionship(registry.findChampionship(name));
+    }
+
+    /**
+     * Makes the given championship the one shown and edited by this window.
+     */
+    private void showChampionship(ChampionshipManager c) {
+        manager = c;
+        setTitle("Football Championship: " + manager.getName());
+        playerListModel.clear();
+        lblTeamStats.setText("Select a team to see stats");
+        refreshTeamList();
+    }
+
     private void addTeam() {
         String name = JOptionPane.showInputDialog(this, "Enter team name:");
         if (name != null && !name.trim().isEmpty()) {
             if (manager.findTeam(name.trim()) != null) {
                 JOptionPane.showMessageDialog(this, "Team already exists.");
             } else {
-                Team t = new Team(name.trim());
-                manager.addTeam(t);
+                manager.addTeam(name.trim());
                 refreshTeamList();
             }
         }
@@ -146,16 +196,55 @@ public class ChampionshipGUI extends JFrame {
         }
         String pname = JOptionPane.showInputDialog(this, "Enter player name:");
         if (pname == null || pname.trim().isEmpty()) return;
+        String key = JOptionPane.showInputDialog(this, "Enter registry key (blank to use the name):");
+        if (key == null) return;
+        if (key.trim().isEmpty()) key = pname;
         String pos = JOptionPane.showInputDialog(this, "Enter position:");
         if (pos == null || pos.trim().isEmpty()) return;
-        Player p = new Player(pname.trim(), pos.trim());
-        t.addPlayer(p);
+        Player existing = manager.findPlayerByKey(key.trim());
+        try {
+            Player p = manager.addPlayer(t, key.trim(), pname.trim(), pos.trim());
+            if (p == existing) {
+                JOptionPane.showMessageDialog(this, p.getName() + " already plays for "
+                        + p.getTeam().getName() + " in this championship.");
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, e.getMessage());
+            return;
+        }
         t.recalculateStats();
         refreshTeamList();
     }
 
+    /**
+     * Shows teams ranked by points over the last N matchdays.
+     */
+    private void showFormTable() {
+        String input = JOptionPane.showInputDialog(this, "Last N matchdays:");
+        if (input == null || input.trim().isEmpty()) return;
+        int rounds;
+        try {
+            rounds = Integer.parseInt(input.trim());
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "Not a number.");
+            return;
+        }
+        if (rounds < 1) {
+            JOptionPane.showMessageDialog(this, "Rounds must be at least 1.");
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (StandingsRow row : manager.getFormTable(rounds)) {
+            sb.append(row).append("\n");
+        }
+        JOptionPane.showMessageDialog(this, sb.toString(),
+                "Form Table (last " + rounds + ")", JOptionPane.INFORMATION_MESSAGE);
+    }
+
     @SuppressWarnings("unchecked")
     private void recordMatch() {
+        int md = manager.getCurrentMatchday();
         List<Team> teams = manager.getTeams();
         Team home = (Team) JOptionPane.showInputDialog(
                 this, "Select home team:", "Record Match", JOptionPane.PLAIN_MESSAGE,
@@ -173,29 +262,29 @@ public class ChampionshipGUI extends JFrame {
             Player scorer = (Player) JOptionPane.showInputDialog(
                     this, "Home scorer #" + i + ":", "Scorer",
                     JOptionPane.PLAIN_MESSAGE, null, home.getPlayers().toArray(), null);
-            if (scorer != null) scorer.updateStats(1, 0, 0, 0);
+            if (scorer != null) scorer.updateStats(md, 1, 0, 0, 0);
             Player assister = (Player) JOptionPane.showInputDialog(
                     this, "Assister for goal #" + i + " (Cancel for none):", "Assister",
                     JOptionPane.PLAIN_MESSAGE, null, home.getPlayers().toArray(), null);
-            if (assister != null && assister != scorer) assister.updateStats(0, 1, 0, 0);
+            if (assister != null && assister != scorer) assister.updateStats(md, 0, 1, 0, 0);
         }
 
         for (int i = 1; i <= ag; i++) {
             Player scorer = (Player) JOptionPane.showInputDialog(
                     this, "Away scorer #" + i + ":", "Scorer",
                     JOptionPane.PLAIN_MESSAGE, null, away.getPlayers().toArray(), null);
-            if (scorer != null) scorer.updateStats(1, 0, 0, 0);
+            if (scorer != null) scorer.updateStats(md, 1, 0, 0, 0);
             Player assister = (Player) JOptionPane.showInputDialog(
                     this, "Assister for goal #" + i + " (Cancel for none):", "Assister",
                     JOptionPane.PLAIN_MESSAGE, null, away.getPlayers().toArray(), null);
-            if (assister != null && assister != scorer) assister.updateStats(0, 1, 0, 0);
+            if (assister != null && assister != scorer) assister.updateStats(md, 0, 1, 0, 0);
         }
 
         for (Player p : home.getPlayers()) {
             if ("Goalkeeper".equalsIgnoreCase(p.getPosition())) {
                 int sv = Integer.parseInt(JOptionPane.showInputDialog(this,
                         "Saves by " + p.getName() + ":"));
-                p.updateStats(0, 0, sv, ag);
+                p.updateStats(md, 0, 0, sv, ag);
             }
         }
         for (Player p : away.getPlayers()) {
@@ -203,13 +292,13 @@ public class ChampionshipGUI extends JFrame {
                     "Goalkeeper".equalsIgnoreCase(p.getPosition())) {
                 int sv = Integer.parseInt(JOptionPane.showInputDialog(this,
                         "Saves by " + p.getName() + ":"));
-                p.updateStats(0, 0, sv, hg);
+                p.updateStats(md, 0, 0, sv, hg);
             }
         }
 
+        manager.recordMatchPoints(home, away, hg, ag);
         home.recalculateStats();
         away.recalculateStats();
-        manager.recordMatchPoints(home, away, hg, ag);
         refreshTeamList();
 
         JOptionPane.showMessageDialog(this,
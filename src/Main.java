@@ -1,6 +1,6 @@
 import Core.ChampionshipManager;
+import Core.Registry;
 import Core.Team;
-import Core.Player;
 import GUI.ChampionshipGUI;
 import CLI.MainCLI;
 
@@ -11,26 +11,25 @@ import javax.swing.SwingUtilities;
  */
 public class Main {
     public static void main(String[] args) {
-        // 1️⃣ Initialize championship manager
-        ChampionshipManager manager = new ChampionshipManager();
+        // 1️⃣ Initialize registry and championship manager
+        Registry registry = new Registry();
+        ChampionshipManager manager = registry.createChampionship("League");
 
         // 2️⃣ Seed sample data (if desired)
-        Team t1 = new Team("Real Madrid");
-        t1.addPlayer(new Player("Cristiano Ronaldo", "Forward"));
-        t1.addPlayer(new Player("Iker Casillas", "Goalkeeper"));
-        manager.addTeam(t1);
+        Team t1 = manager.addTeam("Real Madrid");
+        manager.addPlayer(t1, "Cristiano Ronaldo", "Forward");
+        manager.addPlayer(t1, "Iker Casillas", "Goalkeeper");
 
-        Team t2 = new Team("FC Barcelona");
-        t2.addPlayer(new Player("Lionel Messi", "Forward"));
-        t2.addPlayer(new Player("Mark Ter-Stegen", "Goalkeeper"));
-        manager.addTeam(t2);
+        Team t2 = manager.addTeam("FC Barcelona");
+        manager.addPlayer(t2, "Lionel Messi", "Forward");
+        manager.addPlayer(t2, "Mark Ter-Stegen", "Goalkeeper");
 
         // 3️⃣ Decide interface
         if (args.length > 0 && args[0].equalsIgnoreCase("cli")) {
-            new MainCLI(manager).run();
+            new MainCLI(registry, manager).run();
         } else {
             SwingUtilities.invokeLater(() -> {
-                new ChampionshipGUI(manager).setVisible(true);
+                new ChampionshipGUI(registry, manager).setVisible(true);
             });
         }
     }